@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.btree.jmh_generated;
+public class BTreeTransformBench_jmhType extends BTreeTransformBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.instance.jmh_generated;
+public class ReadWidePartitionsBench_jmhType extends ReadWidePartitionsBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.instance.jmh_generated;
+public class WideWriteBench_jmhType extends WideWriteBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class BloomFilterLookupBench_jmhType extends BloomFilterLookupBench_jmhType_B3 {
+}
+
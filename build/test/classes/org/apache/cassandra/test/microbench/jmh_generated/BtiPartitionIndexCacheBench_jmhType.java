@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class BtiPartitionIndexCacheBench_jmhType extends BtiPartitionIndexCacheBench_jmhType_B3 {
+}
+
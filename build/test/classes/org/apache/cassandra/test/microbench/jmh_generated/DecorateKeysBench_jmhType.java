@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class DecorateKeysBench_jmhType extends DecorateKeysBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class LongestMatchingCIDRBench_StateWithExistingCIDR_jmhType extends LongestMatchingCIDRBench_StateWithExistingCIDR_jmhType_B3 {
+}
+
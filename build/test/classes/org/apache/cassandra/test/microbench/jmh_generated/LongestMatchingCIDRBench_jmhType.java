@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class LongestMatchingCIDRBench_jmhType extends LongestMatchingCIDRBench_jmhType_B3 {
+}
+
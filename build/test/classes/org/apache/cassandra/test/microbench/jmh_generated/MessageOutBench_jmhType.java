@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class MessageOutBench_jmhType extends MessageOutBench_jmhType_B3 {
+}
+
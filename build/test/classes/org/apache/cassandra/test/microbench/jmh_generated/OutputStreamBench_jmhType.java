@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class OutputStreamBench_jmhType extends OutputStreamBench_jmhType_B3 {
+}
+
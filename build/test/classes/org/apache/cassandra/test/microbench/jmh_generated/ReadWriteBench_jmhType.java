@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class ReadWriteBench_jmhType extends ReadWriteBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class SampleBench_jmhType extends SampleBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class StageExecutorBench_jmhType extends StageExecutorBench_jmhType_B3 {
+}
+
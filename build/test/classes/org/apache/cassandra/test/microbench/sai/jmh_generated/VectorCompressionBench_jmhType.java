@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.sai.jmh_generated;
+public class VectorCompressionBench_jmhType extends VectorCompressionBench_jmhType_B3 {
+}
+
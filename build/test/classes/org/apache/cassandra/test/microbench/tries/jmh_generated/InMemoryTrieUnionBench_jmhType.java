@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.tries.jmh_generated;
+public class InMemoryTrieUnionBench_jmhType extends InMemoryTrieUnionBench_jmhType_B3 {
+}
+